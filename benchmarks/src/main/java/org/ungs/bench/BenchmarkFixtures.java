@@ -0,0 +1,96 @@
+package org.ungs.bench;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import org.ungs.core.config.GeneralConfig;
+import org.ungs.core.config.GroupsConfig;
+import org.ungs.core.config.InjectionScheduleConfig;
+import org.ungs.core.config.NetworkDynamicsConfig;
+import org.ungs.core.config.ObservabilityConfig;
+import org.ungs.core.config.PairConstraintsConfig;
+import org.ungs.core.config.PairSelectionConfig;
+import org.ungs.core.config.SimulationConfigContext;
+import org.ungs.core.config.TerminationConfig;
+import org.ungs.core.config.TrafficConfig;
+import org.ungs.core.engine.SimulationRuntimeContext;
+import org.ungs.core.network.Network;
+import org.ungs.core.network.Node;
+import org.ungs.core.observability.api.NoOpObserverHub;
+import org.ungs.core.routing.api.AlgorithmType;
+import org.ungs.core.routing.factory.RoutingApplicationFactory;
+import org.ungs.core.topology.api.TopologyType;
+import org.ungs.core.topology.generators.TopologyGenerators;
+import org.ungs.util.DeterministicRng;
+
+/** Networks and configurations shared by the benchmarks; everything is seeded. */
+final class BenchmarkFixtures {
+
+  static final long SEED = 42L;
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * Builds one of the benchmark topologies: {@code GRID_6X6}, {@code GRID_32X32}, {@code
+   * ERDOS_RENYI_500} or {@code BARABASI_ALBERT_1000}.
+   */
+  static Network network(String topology) {
+    return switch (topology) {
+      case "GRID_6X6" -> TopologyGenerators.grid(6, 6);
+      case "GRID_32X32" -> TopologyGenerators.grid(32, 32);
+      case "ERDOS_RENYI_500" ->
+          TopologyGenerators.erdosRenyi(500, 0.012, new DeterministicRng(SEED));
+      case "BARABASI_ALBERT_1000" ->
+          TopologyGenerators.barabasiAlbert(1000, 2, new DeterministicRng(SEED));
+      default -> throw new IllegalArgumentException("Unknown benchmark topology: " + topology);
+    };
+  }
+
+  /** Fixed-length run at a constant load, without metrics or outputs. */
+  static SimulationConfigContext config(AlgorithmType algorithm, double load, int ticks) {
+    GeneralConfig general =
+        new GeneralConfig(
+            SEED,
+            TopologyType._6X6_GRID,
+            null,
+            List.of(algorithm),
+            OptionalInt.of(100_000),
+            0,
+            "benchmark",
+            null);
+    TrafficConfig traffic =
+        new TrafficConfig(
+            new InjectionScheduleConfig.LoadLevel(load),
+            new PairSelectionConfig.Random(),
+            new PairConstraintsConfig(true, false),
+            new GroupsConfig(Map.of()));
+    ObservabilityConfig observability =
+        new ObservabilityConfig(List.of(), List.of(), 1, 500, 0, OptionalLong.empty());
+
+    return new SimulationConfigContext(
+        general,
+        new TerminationConfig.FixedTicks(ticks),
+        traffic,
+        new NetworkDynamicsConfig.None(),
+        observability);
+  }
+
+  /** Runtime context bound to {@code network}, with {@code algorithm} installed on every node. */
+  static SimulationRuntimeContext context(Network network, AlgorithmType algorithm) {
+    SimulationRuntimeContext ctx =
+        new SimulationRuntimeContext(config(algorithm, 1.0, 1), network, NoOpObserverHub.INSTANCE);
+    ctx.reset(algorithm);
+    network.setRuntimeContext(ctx);
+    installApplications(network, algorithm, ctx);
+    return ctx;
+  }
+
+  static void installApplications(
+      Network network, AlgorithmType algorithm, SimulationRuntimeContext ctx) {
+    for (Node node : network.getNodes()) {
+      node.installApplication(
+          RoutingApplicationFactory.createRoutingApplication(algorithm, node, ctx));
+    }
+  }
+}
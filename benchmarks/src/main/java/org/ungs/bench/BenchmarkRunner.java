@@ -0,0 +1,23 @@
+package org.ungs.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Takes the usual JMH command line (e.g. a benchmark regex, or
+ * {@code -rf json -rff baseline.json} to save a baseline) and always adds the GC profiler, so every
+ * result carries its allocation rate ({@code gc.alloc.rate.norm} is bytes per operation).
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions cli = new CommandLineOptions(args);
+    new Runner(new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class).build()).run();
+  }
+}
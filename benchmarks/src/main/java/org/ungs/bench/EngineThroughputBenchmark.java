@@ -0,0 +1,60 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ungs.core.engine.SimulationEngine;
+import org.ungs.core.network.Network;
+import org.ungs.core.routing.api.AlgorithmType;
+
+/**
+ * Whole-engine throughput: one operation is one simulated tick, so the score reads as ticks per
+ * second. Each invocation runs {@value #TICKS} ticks on a fresh network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class EngineThroughputBenchmark {
+
+  static final int TICKS = 500;
+
+  @Param({"GRID_6X6", "GRID_32X32", "ERDOS_RENYI_500", "BARABASI_ALBERT_1000"})
+  public String topology;
+
+  @Param({"1.0", "4.0", "8.0"})
+  public double load;
+
+  @Param({"Q_ROUTING", "SHORTEST_PATH"})
+  public AlgorithmType algorithm;
+
+  private SimulationEngine engine;
+  private Network network;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    network = BenchmarkFixtures.network(topology);
+    engine = new SimulationEngine(BenchmarkFixtures.config(algorithm, load, TICKS), network);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TICKS)
+  public void ticks(Blackhole bh) {
+    engine.run();
+    bh.consume(network.packetsInFlight());
+  }
+}
@@ -0,0 +1,77 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ungs.core.routing.kernel.QKernel;
+import org.ungs.core.routing.kernel.QKernelFactory;
+import org.ungs.core.routing.kernel.QKernelType;
+import org.ungs.util.DeterministicRng;
+
+/**
+ * Scalar against Vector API loops over one node's per-arc Q-values: the argmin every Q-routing
+ * decision makes and the TD update full echo applies to every neighbor. {@code degree} 4 is a grid,
+ * 16 a 2^16-node hypercube, 64 a dense mesh. Rows carry some down links and ties, as in a run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "-Dlogback.configurationFile=logback-bench.xml",
+      "--add-modules=jdk.incubator.vector"
+    })
+public class QKernelBenchmark {
+
+  @Param({"SCALAR", "VECTOR"})
+  public QKernelType kernel;
+
+  @Param({"4", "16", "64"})
+  public int degree;
+
+  private QKernel q;
+  private double[] values;
+  private double[] target;
+  private double[] updated;
+  private int[] candidates;
+
+  @Setup
+  public void setUp() {
+    q = QKernelFactory.from(kernel);
+    DeterministicRng rng = new DeterministicRng(BenchmarkFixtures.SEED);
+    values = new double[degree];
+    target = new double[degree];
+    updated = new double[degree];
+    candidates = new int[degree];
+    for (int i = 0; i < degree; i++) {
+      int r = rng.nextIndex(10);
+      values[i] = r == 0 ? Double.NaN : r < 3 ? 1.0 : 1.0 + rng.nextIndex(1000) / 100.0;
+      target[i] = values[i] + rng.nextIndex(1000) / 100.0;
+    }
+  }
+
+  @Benchmark
+  public int argmin() {
+    double min = q.min(values, 0, degree);
+    return q.ties(values, 0, degree, min, 1e-6, candidates);
+  }
+
+  @Benchmark
+  public double[] tdUpdate() {
+    System.arraycopy(target, 0, updated, 0, degree);
+    q.tdUpdate(values, updated, 0.7, degree);
+    return updated;
+  }
+}
@@ -0,0 +1,70 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ungs.core.engine.SimulationRuntimeContext;
+import org.ungs.core.network.Network;
+import org.ungs.core.network.Node;
+import org.ungs.core.network.Packet;
+import org.ungs.core.routing.api.AlgorithmType;
+import org.ungs.core.routing.api.RoutingApplication;
+
+/**
+ * Cost of one Q-routing decision: the node takes a packet from its queue, picks a neighbor, updates
+ * its Q-value and schedules the send. The scheduled send is discarded so the network state stays
+ * the same across invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class QRoutingOnTickBenchmark {
+
+  @Param({"GRID_6X6", "BARABASI_ALBERT_1000"})
+  public String topology;
+
+  @Param({"Q_ROUTING", "FULL_ECHO_Q_ROUTING"})
+  public AlgorithmType algorithm;
+
+  private SimulationRuntimeContext ctx;
+  private Node node;
+  private RoutingApplication app;
+  private Packet packet;
+
+  @Setup
+  public void setUp() {
+    Network network = BenchmarkFixtures.network(topology);
+    ctx = BenchmarkFixtures.context(network, algorithm);
+    // the busiest node routing towards the farthest id exercises the widest argmin
+    node =
+        network.getNodes().stream()
+            .max((a, b) -> Integer.compare(a.getNeighbors().size(), b.getNeighbors().size()))
+            .orElseThrow();
+    app = node.getApplication();
+    Node destination = network.getNodes().get(network.getNodes().size() - 1);
+    if (destination == node) destination = network.getNodes().get(0);
+    packet = new Packet(new Packet.Id(0), node.getId(), destination.getId());
+    packet.markAsDeparted(ctx);
+    app.onTickStart(ctx);
+  }
+
+  @Benchmark
+  public void onTick(Blackhole bh) {
+    node.receivePacket(packet);
+    app.onTick(ctx);
+    bh.consume(ctx.flushPendingSends());
+  }
+}
@@ -0,0 +1,87 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ungs.core.routing.impl.qrouting.QRoutingApplication;
+import org.ungs.core.routing.table.QTableStorage;
+import org.ungs.util.DeterministicRng;
+
+/**
+ * Q-table primitives on a table sized like one node of a {@code degree}-regular network of {@code
+ * nodes} nodes, in each {@link QTableStorage}. Keys are drawn up front so the benchmark measures
+ * only the table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class QTableBenchmark {
+
+  private static final int KEYS = 1 << 12;
+
+  @Param({"36", "1000"})
+  public int nodes;
+
+  @Param({"4"})
+  public int degree;
+
+  @Param({"HEAP", "OFF_HEAP", "OFF_HEAP_FLOAT"})
+  public QTableStorage storage;
+
+  private QRoutingApplication.QTable table;
+  private final int[] to = new int[KEYS];
+  private final int[] destination = new int[KEYS];
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    table = new QRoutingApplication.QTable(storage, degree * nodes);
+    for (int n = 1; n <= degree; n++) {
+      for (int d = 0; d < nodes; d++) table.set(0, n, d, d);
+    }
+    DeterministicRng rng = new DeterministicRng(BenchmarkFixtures.SEED);
+    for (int i = 0; i < KEYS; i++) {
+      to[i] = 1 + rng.nextIndex(degree);
+      destination[i] = rng.nextIndex(nodes);
+    }
+    table.takeSnapshot();
+  }
+
+  @Benchmark
+  public double get() {
+    int i = cursor++ & (KEYS - 1);
+    return table.get(0, to[i], destination[i]);
+  }
+
+  @Benchmark
+  public void set() {
+    int i = cursor++ & (KEYS - 1);
+    table.set(0, to[i], destination[i], i);
+  }
+
+  @Benchmark
+  public double getFromSnapshot() {
+    int i = cursor++ & (KEYS - 1);
+    return table.getFromSnapshot(0, to[i], destination[i]);
+  }
+
+  /** One write followed by a snapshot, as a node does once per tick it routed on. */
+  @Benchmark
+  public void takeSnapshot() {
+    int i = cursor++ & (KEYS - 1);
+    table.set(0, to[i], destination[i], i);
+    table.takeSnapshot();
+  }
+}
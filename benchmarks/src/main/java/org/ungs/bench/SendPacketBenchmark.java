@@ -0,0 +1,61 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ungs.core.network.Network;
+import org.ungs.core.network.Node;
+import org.ungs.core.network.Packet;
+import org.ungs.core.routing.api.AlgorithmType;
+
+/**
+ * One hop through {@link Network#sendPacket}: neighbor check, hop event and enqueue at the
+ * receiver. The packet is taken back from the receiver so queues do not grow.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class SendPacketBenchmark {
+
+  @Param({"GRID_6X6", "BARABASI_ALBERT_1000"})
+  public String topology;
+
+  private Network network;
+  private Node from;
+  private Node to;
+  private Packet packet;
+
+  @Setup
+  public void setUp() {
+    network = BenchmarkFixtures.network(topology);
+    BenchmarkFixtures.context(network, AlgorithmType.SHORTEST_PATH);
+    from = network.getNodes().get(network.getNodes().size() / 2);
+    to = from.getNeighbors().get(0);
+    packet = new Packet(new Packet.Id(0), from.getId(), to.getId());
+  }
+
+  @Benchmark
+  public void byId(Blackhole bh) {
+    network.sendPacket(from.getId(), to.getId(), packet);
+    bh.consume(to.getNextPacket());
+  }
+
+  @Benchmark
+  public void byPrimitiveId(Blackhole bh) {
+    network.sendPacket(from.getId().value(), to.getId().value(), packet);
+    bh.consume(to.getNextPacket());
+  }
+}
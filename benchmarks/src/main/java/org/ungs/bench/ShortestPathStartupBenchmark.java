@@ -0,0 +1,60 @@
+package org.ungs.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ungs.core.engine.SimulationRuntimeContext;
+import org.ungs.core.network.Network;
+import org.ungs.core.network.Node;
+import org.ungs.core.observability.api.NoOpObserverHub;
+import org.ungs.core.routing.api.AlgorithmType;
+
+/**
+ * Time to get shortest-path routing ready on a freshly built network: installing the application on
+ * every node and building the shared distance table they route with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-bench.xml")
+public class ShortestPathStartupBenchmark {
+
+  @Param({"GRID_32X32", "ERDOS_RENYI_500", "BARABASI_ALBERT_1000"})
+  public String topology;
+
+  private Network network;
+  private SimulationRuntimeContext ctx;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    network = BenchmarkFixtures.network(topology);
+    ctx =
+        new SimulationRuntimeContext(
+            BenchmarkFixtures.config(AlgorithmType.SHORTEST_PATH, 1.0, 1),
+            network,
+            NoOpObserverHub.INSTANCE);
+    ctx.reset(AlgorithmType.SHORTEST_PATH);
+    network.setRuntimeContext(ctx);
+  }
+
+  @Benchmark
+  public void startup(Blackhole bh) {
+    BenchmarkFixtures.installApplications(network, AlgorithmType.SHORTEST_PATH, ctx);
+    Node first = network.getNodes().get(0);
+    Node last = network.getNodes().get(network.getNodes().size() - 1);
+    bh.consume(network.shortestPaths().distance(first.getId(), last.getId()));
+  }
+}